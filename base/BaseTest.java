@@ -3,6 +3,7 @@ import static play.test.Helpers.fakeApplication;
 import static play.test.Helpers.inMemoryDatabase;
 import static play.test.Helpers.running;
 
+import org.joda.time.DateTimeUtils;
 import org.joda.time.DateTimeZone;
 
 /**
@@ -27,9 +28,24 @@ public abstract class BaseTest {
 		running(fakeApplication(inMemoryDatabase(TEST_DB)), new Runnable() {
 	        @Override
 			public void run() {
-	        	callback.execute();
+	        	try {
+	        		callback.execute();
+	        	}
+	        	finally {
+	        		resetClock();
+	        	}
 	        }
 		});
 	}
+	
+	/**
+	 * Restore the system clock and the default timezone so that a test
+	 * calling DateTimeUtils.setCurrentMillisFixed doesn't leak its time
+	 * into the tests that run after it
+	 */
+	protected void resetClock() {
+		DateTimeUtils.setCurrentMillisSystem();
+		DateTimeZone.setDefault(origDefault);
+	}
 
 }